@@ -0,0 +1,39 @@
+package com.central.authentication_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static com.central.authentication_service.constants.Constants.PASSWORD_REHASH_EXECUTOR;
+
+@Slf4j
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    @Value("${password.rehash.pool-size:2}")
+    private int rehashPoolSize;
+
+    @Value("${password.rehash.queue-capacity:100}")
+    private int rehashQueueCapacity;
+
+    /**
+     * Bounded pool for best-effort password rehashing. When it is full the task is dropped,
+     * the stale hash still matches and is picked up again at the user's next login.
+     */
+    @Bean(name = PASSWORD_REHASH_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordRehashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(rehashPoolSize);
+        executor.setMaxPoolSize(rehashPoolSize);
+        executor.setQueueCapacity(rehashQueueCapacity);
+        executor.setThreadNamePrefix("password-rehash-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Password rehash queue is full, dropping rehash task"));
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.central.authentication_service.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder that flags hashes below the calibrated strength for upgrade, and hashes
+ * at least {@link #DOWNGRADE_MARGIN} above it for downgrade. The margin keeps nodes or
+ * restarts that calibrate one step apart from re-encoding the same hashes back and forth.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$.{53}$");
+    private static final int DOWNGRADE_MARGIN = 2;
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        int storedStrength = Integer.parseInt(matcher.group(1));
+        return storedStrength < strength || storedStrength >= strength + DOWNGRADE_MARGIN;
+    }
+}
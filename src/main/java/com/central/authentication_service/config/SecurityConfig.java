@@ -1,15 +1,33 @@
 package com.central.authentication_service.config;
 
+import com.central.authentication_service.utils.BCryptCalibrationUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Map;
+
+import static com.central.authentication_service.constants.Constants.BCRYPT_ENCODING_ID;
+
+@Slf4j
 @Configuration
 public class SecurityConfig {
 
+    @Value("${password.bcrypt.target-hash-millis:250}")
+    private long targetHashMillis;
+
+    @Value("${password.bcrypt.min-strength:10}")
+    private int minStrength;
+
+    @Value("${password.bcrypt.max-strength:16}")
+    private int maxStrength;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -25,6 +43,13 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = BCryptCalibrationUtil.calibrateStrength(targetHashMillis, minStrength, maxStrength);
+        log.info("Calibrated BCrypt strength {} for target hash time {} ms", strength, targetHashMillis);
+
+        // Hashes are stored as {bcrypt}$2a$<cost>$..., legacy hashes without an id are still matched as BCrypt
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ENCODING_ID,
+                Map.of(BCRYPT_ENCODING_ID, new CalibratedBCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 }
@@ -4,4 +4,7 @@ public class Constants {
 
     public static final String ALPHANUM = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     public static final String HMAC_ALGORITHM = "HmacSHA256";
+    public static final String BCRYPT_ENCODING_ID = "bcrypt";
+    public static final String BCRYPT_CALIBRATION_PASSWORD = "calibration-password";
+    public static final String PASSWORD_REHASH_EXECUTOR = "passwordRehashExecutor";
 }
@@ -3,6 +3,7 @@ package com.central.authentication_service.repository;
 import com.central.authentication_service.model.Role;
 import com.central.authentication_service.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,4 +20,9 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByUserCode(String userCode);
     @Query("SELECT u.role FROM User u WHERE u.userCode = :userCode")
     Optional<Role> getUserRoleByUserCode(@Param("userCode") UUID userCode);
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.userCode = :userCode AND u.password = :observedPassword")
+    int updatePasswordIfUnchanged(@Param("userCode") String userCode,
+                                  @Param("observedPassword") String observedPassword,
+                                  @Param("newPassword") String newPassword);
 }
@@ -1,5 +1,6 @@
 package com.central.authentication_service.service;
 
+import com.central.authentication_service.model.User;
 import com.central.authentication_service.repository.UserRepository;
 import com.central.authentication_service.utils.JwtUtil;
 import org.openapitools.model.LoginRequest;
@@ -26,20 +27,28 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private PasswordRehashService passwordRehashService;
+
 
     @Override
     public ResponseEntity<LoginResponse> loginUser(LoginRequest loginRequest) {
-        Optional<String> tokenOptional = repository.findByEmail(loginRequest.getEmail())
+        Optional<User> userOptional = repository.findByEmail(loginRequest.getEmail())
                 .filter(u -> passwordEncoder.matches(loginRequest.getPassword(),
-                        u.getPassword()))
-                .map(u -> jwtUtil.generateToken(u.getUserCode(), String.valueOf(u.getRole())));
+                        u.getPassword()));
 
 
-        if (tokenOptional.isEmpty()) {
+        if (userOptional.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        String token = tokenOptional.get();
+        User user = userOptional.get();
+        // Bring hashes with a stale cost or encoding id to the calibrated target off the request path
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            passwordRehashService.rehashPassword(user.getUserCode(), user.getPassword(), loginRequest.getPassword());
+        }
+
+        String token = jwtUtil.generateToken(user.getUserCode(), String.valueOf(user.getRole()));
         LoginResponse response = constructLoginResponse(token);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
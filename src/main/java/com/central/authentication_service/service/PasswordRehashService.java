@@ -0,0 +1,7 @@
+package com.central.authentication_service.service;
+
+public interface PasswordRehashService {
+
+    public void rehashPassword(String userCode, String observedPassword, String rawPassword);
+
+}
@@ -0,0 +1,40 @@
+package com.central.authentication_service.service;
+
+import com.central.authentication_service.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.central.authentication_service.constants.Constants.PASSWORD_REHASH_EXECUTOR;
+
+@Slf4j
+@Service
+public class PasswordRehashServiceImpl implements PasswordRehashService {
+
+    @Autowired
+    private UserRepository repository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Async(PASSWORD_REHASH_EXECUTOR)
+    @Override
+    @Transactional
+    public void rehashPassword(String userCode, String observedPassword, String rawPassword) {
+        try {
+            String newPassword = passwordEncoder.encode(rawPassword);
+            // Only replace the hash seen at login, so a password changed or rehashed since then is kept
+            int updated = repository.updatePasswordIfUnchanged(userCode, observedPassword, newPassword);
+            if (updated > 0) {
+                log.info("Rehashed password for userCode {}", userCode);
+            } else {
+                log.info("Skipped rehash for userCode {}, password changed since login", userCode);
+            }
+        } catch (Exception e) {
+            log.error("Error rehashing password for userCode {}", userCode, e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.central.authentication_service.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+import static com.central.authentication_service.constants.Constants.BCRYPT_CALIBRATION_PASSWORD;
+
+@Slf4j
+public class BCryptCalibrationUtil {
+
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    private static final int SAMPLES_PER_STRENGTH = 3;
+
+    /**
+     * Picks the BCrypt strength whose hash time on this machine is closest to the target.
+     * Each strength step doubles the work, so the search stops at the first strength
+     * that reaches the target and compares it with the one just below.
+     */
+    public static int calibrateStrength(long targetMillis, int minStrength, int maxStrength) {
+        return calibrateStrength(targetMillis, minStrength, maxStrength, BCryptCalibrationUtil::measureHashMillis);
+    }
+
+    static int calibrateStrength(long targetMillis, int minStrength, int maxStrength, IntToLongFunction hashMillis) {
+        if (targetMillis <= 0) {
+            throw new IllegalArgumentException("BCrypt target hash time must be positive: " + targetMillis);
+        }
+        if (minStrength < MIN_BCRYPT_STRENGTH || maxStrength > MAX_BCRYPT_STRENGTH || minStrength > maxStrength) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid BCrypt strength range [%d, %d]", minStrength, maxStrength));
+        }
+
+        int previousStrength = minStrength;
+        long previousMillis = 0;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsedMillis = hashMillis.applyAsLong(strength);
+
+            if (elapsedMillis >= targetMillis) {
+                if (strength > minStrength
+                        && targetMillis - previousMillis < elapsedMillis - targetMillis) {
+                    return previousStrength;
+                }
+                return strength;
+            }
+            previousStrength = strength;
+            previousMillis = elapsedMillis;
+        }
+        return maxStrength;
+    }
+
+    /**
+     * Returns the fastest of several timed hashes. Noise from JIT, GC or co-located load
+     * only ever adds time, so the minimum is the closest to the real cost.
+     */
+    private static long measureHashMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        // Warm up so the samples are not dominated by class loading and JIT
+        encoder.encode(BCRYPT_CALIBRATION_PASSWORD);
+
+        long[] samples = new long[SAMPLES_PER_STRENGTH];
+        for (int i = 0; i < SAMPLES_PER_STRENGTH; i++) {
+            long start = System.nanoTime();
+            encoder.encode(BCRYPT_CALIBRATION_PASSWORD);
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+
+        long fastest = Arrays.stream(samples).min().getAsLong();
+        log.info("BCrypt strength {} samples {} ms, using {} ms", strength, Arrays.toString(samples), fastest);
+        return fastest;
+    }
+}
@@ -0,0 +1,45 @@
+package com.central.authentication_service.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    private final CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(6);
+
+    private static String hashWithStrength(int strength) {
+        return new BCryptPasswordEncoder(strength).encode("password");
+    }
+
+    @Test
+    void upgradeEncoding_lowerStrength_isFlagged() {
+        assertTrue(encoder.upgradeEncoding(hashWithStrength(4)));
+        assertTrue(encoder.upgradeEncoding(hashWithStrength(5)));
+    }
+
+    @Test
+    void upgradeEncoding_sameStrength_isNotFlagged() {
+        assertFalse(encoder.upgradeEncoding(hashWithStrength(6)));
+    }
+
+    @Test
+    void upgradeEncoding_oneStepHigher_isNotFlagged() {
+        assertFalse(encoder.upgradeEncoding(hashWithStrength(7)));
+    }
+
+    @Test
+    void upgradeEncoding_twoStepsHigher_isFlagged() {
+        assertTrue(encoder.upgradeEncoding(hashWithStrength(8)));
+    }
+
+    @Test
+    void upgradeEncoding_unmatchedOrEmpty_isNotFlagged() {
+        assertFalse(encoder.upgradeEncoding(null));
+        assertFalse(encoder.upgradeEncoding(""));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+        assertFalse(encoder.upgradeEncoding("{bcrypt}" + hashWithStrength(4)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.central.authentication_service.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SecurityConfigTest {
+
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        SecurityConfig securityConfig = new SecurityConfig();
+        ReflectionTestUtils.setField(securityConfig, "targetHashMillis", 1L);
+        ReflectionTestUtils.setField(securityConfig, "minStrength", 4);
+        ReflectionTestUtils.setField(securityConfig, "maxStrength", 4);
+        passwordEncoder = securityConfig.passwordEncoder();
+    }
+
+    @Test
+    void encode_prefixesBCryptId() {
+        String encoded = passwordEncoder.encode("password");
+
+        assertTrue(encoded.startsWith("{bcrypt}$2a$04$"));
+        assertTrue(passwordEncoder.matches("password", encoded));
+        assertFalse(passwordEncoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void legacyHashWithoutId_matchesAndIsFlaggedForRehash() {
+        String legacy = new BCryptPasswordEncoder().encode("password");
+
+        assertTrue(passwordEncoder.matches("password", legacy));
+        assertFalse(passwordEncoder.matches("wrong-password", legacy));
+        assertTrue(passwordEncoder.upgradeEncoding(legacy));
+    }
+}
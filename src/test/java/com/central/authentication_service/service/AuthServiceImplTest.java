@@ -0,0 +1,99 @@
+package com.central.authentication_service.service;
+
+import com.central.authentication_service.model.Role;
+import com.central.authentication_service.model.User;
+import com.central.authentication_service.repository.UserRepository;
+import com.central.authentication_service.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.model.LoginRequest;
+import org.openapitools.model.LoginResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    private static final String STORED_HASH = "{bcrypt}$2a$10$storedhash";
+
+    @Mock
+    private UserRepository repository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private PasswordRehashService passwordRehashService;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    private LoginRequest loginRequest;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .userCode("ABC1234")
+                .username("user")
+                .email("user@central.com")
+                .password(STORED_HASH)
+                .role(Role.USER)
+                .build();
+        loginRequest = new LoginRequest();
+        loginRequest.setEmail("user@central.com");
+        loginRequest.setPassword("password");
+        when(repository.findByEmail("user@central.com")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void loginUser_staleHash_triggersRehash() {
+        when(passwordEncoder.matches("password", STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(STORED_HASH)).thenReturn(true);
+        when(jwtUtil.generateToken(anyString(), anyString())).thenReturn("token");
+
+        ResponseEntity<LoginResponse> response = authService.loginUser(loginRequest);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(passwordRehashService).rehashPassword("ABC1234", STORED_HASH, "password");
+    }
+
+    @Test
+    void loginUser_currentHash_skipsRehash() {
+        when(passwordEncoder.matches("password", STORED_HASH)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(STORED_HASH)).thenReturn(false);
+        when(jwtUtil.generateToken(anyString(), anyString())).thenReturn("token");
+
+        ResponseEntity<LoginResponse> response = authService.loginUser(loginRequest);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(passwordRehashService, never()).rehashPassword(any(), any(), any());
+    }
+
+    @Test
+    void loginUser_wrongPassword_skipsRehash() {
+        when(passwordEncoder.matches("password", STORED_HASH)).thenReturn(false);
+
+        ResponseEntity<LoginResponse> response = authService.loginUser(loginRequest);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        verify(passwordRehashService, never()).rehashPassword(any(), any(), any());
+        verify(passwordEncoder, never()).upgradeEncoding(any());
+    }
+}
@@ -0,0 +1,42 @@
+package com.central.authentication_service.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BCryptCalibrationUtilTest {
+
+    // Strength 10 takes 100 ms, doubling with each step
+    private static long millis(int strength) {
+        return strength >= 10 ? 100L << (strength - 10) : 100L >> (10 - strength);
+    }
+
+    @Test
+    void calibrateStrength_picksClosestStrength() {
+        // 200 ms at 11, 400 ms at 12
+        assertEquals(11, BCryptCalibrationUtil.calibrateStrength(250, 4, 20, BCryptCalibrationUtilTest::millis));
+        assertEquals(12, BCryptCalibrationUtil.calibrateStrength(350, 4, 20, BCryptCalibrationUtilTest::millis));
+        assertEquals(12, BCryptCalibrationUtil.calibrateStrength(400, 4, 20, BCryptCalibrationUtilTest::millis));
+    }
+
+    @Test
+    void calibrateStrength_staysWithinBounds() {
+        assertEquals(10, BCryptCalibrationUtil.calibrateStrength(1, 10, 20, BCryptCalibrationUtilTest::millis));
+        assertEquals(14, BCryptCalibrationUtil.calibrateStrength(100_000, 10, 14, BCryptCalibrationUtilTest::millis));
+    }
+
+    @Test
+    void calibrateStrength_invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptCalibrationUtil.calibrateStrength(250, 12, 10, BCryptCalibrationUtilTest::millis));
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptCalibrationUtil.calibrateStrength(250, 3, 10, BCryptCalibrationUtilTest::millis));
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptCalibrationUtil.calibrateStrength(250, 10, 32, BCryptCalibrationUtilTest::millis));
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptCalibrationUtil.calibrateStrength(0, 10, 12, BCryptCalibrationUtilTest::millis));
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptCalibrationUtil.calibrateStrength(-1, 10, 12, BCryptCalibrationUtilTest::millis));
+    }
+}